@@ -0,0 +1,638 @@
+package org.example.collections.MyCustomArray;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Utility class that provides set operations and joins between two {@link MyCustomArray} instances.
+ * Matching elements are found with a hash table built from index arrays on the smaller side, comparing keys with
+ * {@code equals}. When a comparator is given and both sides are already sorted by it, the sides are merged
+ * in a single linear pass instead, and keys match when the comparator returns zero. Unless the comparator is
+ * consistent with {@code equals}, results may therefore differ depending on whether the input is already sorted.
+ * Both strategies treat {@code null} elements and keys alike: {@code null} matches only {@code null}.
+ * Results are written directly into a new {@link MyCustomArray}, without intermediate pair objects.
+ * Intersection and difference keep the order of the left list; the order of joined pairs is unspecified.
+ */
+public class ArrayJoin {
+
+    private static final int MIN_PARALLEL_SIZE = 1 << 13;
+
+    /**
+     * Returns the elements of the left list that are equal to at least one element of the right list.
+     * Duplicates in the left list are kept.
+     *
+     * @param <T> the type of elements in the lists
+     * @param left the list whose elements are returned
+     * @param right the list whose elements are looked up
+     * @param comparator the comparator consistent with {@code equals}, used to merge sides that are already sorted;
+     * if {@code null}, a hash table is always used
+     * @return a new list with the matching elements of the left list
+     * @throws NullPointerException if either list is null
+     */
+    public static <T> MyCustomArray<T> intersection(MyCustomArray<T> left, MyCustomArray<T> right, Comparator<T> comparator) {
+        return filter(left, right, comparator, true);
+    }
+
+    /**
+     * Returns the elements of the left list that are not equal to any element of the right list.
+     * Duplicates in the left list are kept.
+     *
+     * @param <T> the type of elements in the lists
+     * @param left the list whose elements are returned
+     * @param right the list whose elements are looked up
+     * @param comparator the comparator consistent with {@code equals}, used to merge sides that are already sorted;
+     * if {@code null}, a hash table is always used
+     * @return a new list with the non-matching elements of the left list
+     * @throws NullPointerException if either list is null
+     */
+    public static <T> MyCustomArray<T> difference(MyCustomArray<T> left, MyCustomArray<T> right, Comparator<T> comparator) {
+        return filter(left, right, comparator, false);
+    }
+
+    /**
+     * Joins two lists by key and returns the combined value of every pair of elements with equal keys.
+     *
+     * @param <L> the type of elements in the left list
+     * @param <R> the type of elements in the right list
+     * @param <K> the type of the join key
+     * @param <V> the type of elements in the result
+     * @param left the left list
+     * @param right the right list
+     * @param leftKey the function extracting the key from an element of the left list
+     * @param rightKey the function extracting the key from an element of the right list
+     * @param keyComparator the comparator consistent with {@code equals}, used to merge sides that are already sorted by key;
+     * if {@code null}, a hash table is always used
+     * @param combiner the function combining a matching pair into a result element
+     * @return a new list with one combined element per matching pair
+     * @throws NullPointerException if either list, key function or the combiner is null
+     */
+    public static <L, R, K, V> MyCustomArray<V> join(MyCustomArray<L> left, MyCustomArray<R> right,
+                                                     Function<? super L, K> leftKey,
+                                                     Function<? super R, K> rightKey,
+                                                     Comparator<? super K> keyComparator,
+                                                     BiFunction<? super L, ? super R, ? extends V> combiner) {
+        Objects.requireNonNull(combiner, "Функция объединения не может быть null");
+        Object[] leftElements = left.toArray();
+        Object[] rightElements = right.toArray();
+        return joinKeys(leftElements, keys(leftElements, leftKey, false), rightElements, keys(rightElements, rightKey, false),
+                keyComparator, combiner);
+    }
+
+    /**
+     * Parallel version of {@link #intersection(MyCustomArray, MyCustomArray, Comparator)}.
+     * Both lists are partitioned by hash code and the partitions are matched in the common {@link ForkJoinPool}.
+     *
+     * @param <T> the type of elements in the lists
+     * @param left the list whose elements are returned
+     * @param right the list whose elements are looked up
+     * @return a new list with the matching elements of the left list
+     * @throws NullPointerException if either list is null
+     */
+    public static <T> MyCustomArray<T> parallelIntersection(MyCustomArray<T> left, MyCustomArray<T> right) {
+        return parallelFilter(left, right, true);
+    }
+
+    /**
+     * Parallel version of {@link #difference(MyCustomArray, MyCustomArray, Comparator)}.
+     * Both lists are partitioned by hash code and the partitions are matched in the common {@link ForkJoinPool}.
+     *
+     * @param <T> the type of elements in the lists
+     * @param left the list whose elements are returned
+     * @param right the list whose elements are looked up
+     * @return a new list with the non-matching elements of the left list
+     * @throws NullPointerException if either list is null
+     */
+    public static <T> MyCustomArray<T> parallelDifference(MyCustomArray<T> left, MyCustomArray<T> right) {
+        return parallelFilter(left, right, false);
+    }
+
+    /**
+     * Parallel version of {@link #join(MyCustomArray, MyCustomArray, Function, Function, Comparator, BiFunction)}.
+     * Keys are extracted in parallel, both lists are partitioned by key hash code and each partition is joined
+     * with a hash table in the common {@link ForkJoinPool}. The key functions and the combiner must be thread-safe.
+     *
+     * @param <L> the type of elements in the left list
+     * @param <R> the type of elements in the right list
+     * @param <K> the type of the join key
+     * @param <V> the type of elements in the result
+     * @param left the left list
+     * @param right the right list
+     * @param leftKey the function extracting the key from an element of the left list
+     * @param rightKey the function extracting the key from an element of the right list
+     * @param combiner the function combining a matching pair into a result element
+     * @return a new list with one combined element per matching pair
+     * @throws NullPointerException if either list, key function or the combiner is null
+     */
+    public static <L, R, K, V> MyCustomArray<V> parallelJoin(MyCustomArray<L> left, MyCustomArray<R> right,
+                                                             Function<? super L, K> leftKey,
+                                                             Function<? super R, K> rightKey,
+                                                             BiFunction<? super L, ? super R, ? extends V> combiner) {
+        if (!useParallel(left.size(), right.size())) {
+            return join(left, right, leftKey, rightKey, null, combiner);
+        }
+        Objects.requireNonNull(combiner, "Функция объединения не может быть null");
+        Object[] leftElements = left.toArray();
+        Object[] rightElements = right.toArray();
+        int partitions = partitionCount();
+        Object[] partResults = new Object[partitions];
+        ForkJoinPool.commonPool().invoke(new PartitionTask(partition(side(keys(leftElements, leftKey, true), true), partitions),
+                partition(side(keys(rightElements, rightKey, true), true), partitions), 0, partitions, false, partitionIndex -> {
+                    MyCustomArray<V> partResult = new MyCustomArray<>();
+                    partResults[partitionIndex] = partResult;
+                    return pairCollector(partResult, combiner, leftElements, rightElements);
+                }));
+        MyCustomArray<V> result = new MyCustomArray<>();
+        for (Object part : partResults) {
+            @SuppressWarnings("unchecked")
+            MyCustomArray<V> partResult = (MyCustomArray<V>) part;
+            result.addAll(partResult);
+        }
+        return result;
+    }
+
+    /**
+     * Joins two lists by their extracted keys on the calling thread and collects the combined pairs into a new list.
+     *
+     * @param leftElements the left elements
+     * @param leftKeys the keys of the left elements
+     * @param rightElements the right elements
+     * @param rightKeys the keys of the right elements
+     * @param keyComparator the comparator used to merge sorted sides, or {@code null} to always use a hash table
+     * @param combiner the function combining a matching pair into a result element
+     * @return a new list with one combined element per matching pair
+     */
+    private static <L, R, V> MyCustomArray<V> joinKeys(Object[] leftElements, Object[] leftKeys, Object[] rightElements, Object[] rightKeys,
+                                                        Comparator<?> keyComparator,
+                                                        BiFunction<? super L, ? super R, ? extends V> combiner) {
+        MyCustomArray<V> result = new MyCustomArray<>();
+        match(leftKeys, rightKeys, keyComparator, false, pairCollector(result, combiner, leftElements, rightElements));
+        return result;
+    }
+
+    /**
+     * Returns the elements of the left list that do or do not have an equal element in the right list.
+     *
+     * @param <T> the type of elements in the lists
+     * @param left the list whose elements are returned
+     * @param right the list whose elements are looked up
+     * @param comparator the comparator used to merge sorted sides, or {@code null} to always use a hash table
+     * @param keepMatched {@code true} to keep the matching elements, {@code false} to keep the others
+     * @return a new list with the selected elements of the left list, in their original order
+     */
+    private static <T> MyCustomArray<T> filter(MyCustomArray<T> left, MyCustomArray<T> right, Comparator<T> comparator, boolean keepMatched) {
+        Object[] leftElements = left.toArray();
+        Object[] rightElements = right.toArray();
+        boolean[] matched = new boolean[leftElements.length];
+        match(leftElements, rightElements, comparator, true, (leftIndex, rightIndex) -> matched[leftIndex] = true);
+        return collect(leftElements, matched, keepMatched);
+    }
+
+    /**
+     * Parallel version of {@link #filter(MyCustomArray, MyCustomArray, Comparator, boolean)} that always uses hash tables.
+     *
+     * @param <T> the type of elements in the lists
+     * @param left the list whose elements are returned
+     * @param right the list whose elements are looked up
+     * @param keepMatched {@code true} to keep the matching elements, {@code false} to keep the others
+     * @return a new list with the selected elements of the left list, in their original order
+     */
+    private static <T> MyCustomArray<T> parallelFilter(MyCustomArray<T> left, MyCustomArray<T> right, boolean keepMatched) {
+        if (!useParallel(left.size(), right.size())) {
+            return filter(left, right, null, keepMatched);
+        }
+        Object[] leftElements = left.toArray();
+        Object[] rightElements = right.toArray();
+        boolean[] matched = new boolean[leftElements.length];
+        PairSink sink = (leftIndex, rightIndex) -> matched[leftIndex] = true;
+        int partitions = partitionCount();
+        ForkJoinPool.commonPool().invoke(new PartitionTask(partition(side(leftElements, true), partitions),
+                partition(side(rightElements, true), partitions), 0, partitions, true, partitionIndex -> sink));
+        return collect(leftElements, matched, keepMatched);
+    }
+
+    /**
+     * Finds every pair of elements with equal keys. If a comparator is given and both sides are already sorted by it,
+     * the sides are merged; otherwise a hash table is used. For a semi-join each left element is reported at most once.
+     *
+     * @param leftKeys the keys of the left elements
+     * @param rightKeys the keys of the right elements
+     * @param comparator the comparator used to merge sorted sides, or {@code null} to always use a hash table
+     * @param semi {@code true} if only the existence of a match is of interest
+     * @param sink the receiver of the indices of matching pairs
+     */
+    @SuppressWarnings("unchecked")
+    private static void match(Object[] leftKeys, Object[] rightKeys, Comparator<?> comparator, boolean semi, PairSink sink) {
+        if (comparator != null) {
+            Comparator<Object> nullSafe = Comparator.nullsFirst((Comparator<Object>) comparator);
+            if (isSorted(leftKeys, nullSafe) && isSorted(rightKeys, nullSafe)) {
+                mergeJoin(leftKeys, rightKeys, nullSafe, semi, sink);
+                return;
+            }
+        }
+        hashJoin(side(leftKeys, false), side(rightKeys, false), semi, sink);
+    }
+
+    /**
+     * Returns {@code true} if the keys of the side are in ascending order. Stops at the first inversion,
+     * so the check is cheap for unsorted input.
+     *
+     * @param keys the keys
+     * @param comparator the comparator to determine the order of the keys
+     * @return {@code true} if the keys are sorted
+     */
+    private static boolean isSorted(Object[] keys, Comparator<Object> comparator) {
+        for (int i = 1; i < keys.length; i++) {
+            if (comparator.compare(keys[i - 1], keys[i]) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds every pair of elements with equal keys in two sides sorted by key, in a single linear pass.
+     *
+     * @param leftKeys the keys of the left elements, sorted
+     * @param rightKeys the keys of the right elements, sorted
+     * @param comparator the comparator the keys are sorted by
+     * @param semi {@code true} if only the existence of a match is of interest
+     * @param sink the receiver of the indices of matching pairs
+     */
+    private static void mergeJoin(Object[] leftKeys, Object[] rightKeys, Comparator<Object> comparator, boolean semi, PairSink sink) {
+        int i = 0;
+        int j = 0;
+        while (i < leftKeys.length && j < rightKeys.length) {
+            int cmp = comparator.compare(leftKeys[i], rightKeys[j]);
+            if (cmp < 0) {
+                i++;
+            } else if (cmp > 0) {
+                j++;
+            } else {
+                int leftEnd = i + 1;
+                while (leftEnd < leftKeys.length && comparator.compare(leftKeys[i], leftKeys[leftEnd]) == 0) {
+                    leftEnd++;
+                }
+                int rightEnd = j + 1;
+                while (rightEnd < rightKeys.length && comparator.compare(rightKeys[j], rightKeys[rightEnd]) == 0) {
+                    rightEnd++;
+                }
+                for (int a = i; a < leftEnd; a++) {
+                    if (semi) {
+                        sink.accept(a, j);
+                    } else {
+                        for (int b = j; b < rightEnd; b++) {
+                            sink.accept(a, b);
+                        }
+                    }
+                }
+                i = leftEnd;
+                j = rightEnd;
+            }
+        }
+    }
+
+    /**
+     * Finds every pair of elements with equal keys using a hash table built on the smaller side and probed with the other.
+     * For a semi-join each left element is reported at most once: the table groups elements with equal keys,
+     * and a group of left elements is reported only on its first match.
+     *
+     * @param left the left side
+     * @param right the right side
+     * @param semi {@code true} if only the existence of a match is of interest
+     * @param sink the receiver of the indices of matching pairs
+     */
+    private static void hashJoin(Side left, Side right, boolean semi, PairSink sink) {
+        if (semi && right.size() > left.size()) {
+            KeyTable table = new KeyTable(left, true);
+            boolean[] reported = new boolean[left.size()];
+            for (int position = right.from; position < right.to; position++) {
+                int rightIndex = right.indexAt(position);
+                int entry = table.find(right.keys[rightIndex], right.hashes[rightIndex]);
+                if (entry >= 0 && !reported[entry]) {
+                    reported[entry] = true;
+                    for (int member = entry; member >= 0; member = table.nextWithSameKey(member)) {
+                        sink.accept(table.indexAt(member), rightIndex);
+                    }
+                }
+            }
+        } else if (semi || right.size() <= left.size()) {
+            KeyTable table = new KeyTable(right, semi);
+            for (int position = left.from; position < left.to; position++) {
+                int leftIndex = left.indexAt(position);
+                Object key = left.keys[leftIndex];
+                int hash = left.hashes[leftIndex];
+                for (int entry = table.find(key, hash); entry >= 0; entry = table.next(entry, key, hash)) {
+                    sink.accept(leftIndex, table.indexAt(entry));
+                }
+            }
+        } else {
+            KeyTable table = new KeyTable(left, false);
+            for (int position = right.from; position < right.to; position++) {
+                int rightIndex = right.indexAt(position);
+                Object key = right.keys[rightIndex];
+                int hash = right.hashes[rightIndex];
+                for (int entry = table.find(key, hash); entry >= 0; entry = table.next(entry, key, hash)) {
+                    sink.accept(table.indexAt(entry), rightIndex);
+                }
+            }
+        }
+    }
+
+    /**
+     * Splits a side into partitions by key hash code using a counting sort of element indices.
+     *
+     * @param side the side to be partitioned
+     * @param partitions the number of partitions, a power of two greater than one
+     * @return the partitions, sharing the keys, hash codes and index order of the original side
+     */
+    private static Side[] partition(Side side, int partitions) {
+        int shift = 32 - Integer.numberOfTrailingZeros(partitions);
+        int size = side.size();
+        int[] partitionOf = new int[size];
+        int[] starts = new int[partitions + 1];
+        for (int i = 0; i < size; i++) {
+            int partitionIndex = (side.hashes[i] * 0x9E3779B9) >>> shift;
+            partitionOf[i] = partitionIndex;
+            starts[partitionIndex + 1]++;
+        }
+        for (int p = 0; p < partitions; p++) {
+            starts[p + 1] += starts[p];
+        }
+        int[] cursors = new int[partitions];
+        System.arraycopy(starts, 0, cursors, 0, partitions);
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[cursors[partitionOf[i]]++] = i;
+        }
+        Side[] result = new Side[partitions];
+        for (int p = 0; p < partitions; p++) {
+            result[p] = new Side(side.keys, side.hashes, order, starts[p], starts[p + 1]);
+        }
+        return result;
+    }
+
+    /**
+     * Extracts the key of every element once.
+     *
+     * @param elements the elements
+     * @param keyFunction the function extracting the key from an element
+     * @param parallel {@code true} to extract the keys in the common {@link ForkJoinPool}
+     * @return an array with the key of every element
+     * @throws NullPointerException if the key function is null
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> Object[] keys(Object[] elements, Function<? super E, ?> keyFunction, boolean parallel) {
+        Objects.requireNonNull(keyFunction, "Функция ключа не может быть null");
+        Object[] keys = new Object[elements.length];
+        if (parallel) {
+            Arrays.parallelSetAll(keys, i -> keyFunction.apply((E) elements[i]));
+        } else {
+            for (int i = 0; i < elements.length; i++) {
+                keys[i] = keyFunction.apply((E) elements[i]);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Computes the hash codes of the keys for a hash join.
+     *
+     * @param keys the keys of the elements
+     * @param parallel {@code true} to compute the hash codes in the common {@link ForkJoinPool}
+     * @return the side covering all of the elements
+     */
+    private static Side side(Object[] keys, boolean parallel) {
+        int[] hashes = new int[keys.length];
+        if (parallel) {
+            Arrays.parallelSetAll(hashes, i -> hash(keys[i]));
+        } else {
+            for (int i = 0; i < keys.length; i++) {
+                hashes[i] = hash(keys[i]);
+            }
+        }
+        return new Side(keys, hashes, null, 0, keys.length);
+    }
+
+    /**
+     * Returns the hash code of a key with the high bits spread into the low ones.
+     *
+     * @param key the key, possibly {@code null}
+     * @return the spread hash code
+     */
+    private static int hash(Object key) {
+        int h = Objects.hashCode(key);
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Collects the elements whose match flag equals the requested one.
+     *
+     * @param elements the elements
+     * @param matched the match flag of every element
+     * @param keepMatched the flag value of the elements to collect
+     * @return a new list with the selected elements in their original order
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> MyCustomArray<T> collect(Object[] elements, boolean[] matched, boolean keepMatched) {
+        MyCustomArray<T> result = new MyCustomArray<>();
+        for (int i = 0; i < elements.length; i++) {
+            if (matched[i] == keepMatched) {
+                result.add((T) elements[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a sink that combines each matching pair of elements and appends the result to the list.
+     *
+     * @param result the list receiving the combined elements
+     * @param combiner the function combining a matching pair into a result element
+     * @param leftElements the left elements
+     * @param rightElements the right elements
+     * @return the sink appending to the list
+     */
+    @SuppressWarnings("unchecked")
+    private static <L, R, V> PairSink pairCollector(MyCustomArray<V> result, BiFunction<? super L, ? super R, ? extends V> combiner,
+                                                    Object[] leftElements, Object[] rightElements) {
+        return (leftIndex, rightIndex) -> result.add(combiner.apply((L) leftElements[leftIndex], (R) rightElements[rightIndex]));
+    }
+
+    /**
+     * Returns {@code true} if the inputs are large enough and the common pool has more than one thread.
+     *
+     * @param leftSize the size of the left side
+     * @param rightSize the size of the right side
+     * @return {@code true} if the partitioned parallel mode should be used
+     */
+    private static boolean useParallel(int leftSize, int rightSize) {
+        return ForkJoinPool.getCommonPoolParallelism() > 1 && leftSize + rightSize >= MIN_PARALLEL_SIZE;
+    }
+
+    /**
+     * Returns the number of partitions for a parallel join.
+     *
+     * @return a power of two greater than one
+     */
+    private static int partitionCount() {
+        return Integer.highestOneBit(ForkJoinPool.getCommonPoolParallelism()) * 4;
+    }
+
+    /**
+     * Receiver of the indices of a pair of matching elements.
+     */
+    @FunctionalInterface
+    private interface PairSink {
+
+        /**
+         * Accepts a pair of matching elements.
+         *
+         * @param leftIndex the index of the element in the left side
+         * @param rightIndex the index of the element in the right side
+         */
+        void accept(int leftIndex, int rightIndex);
+    }
+
+    /**
+     * Keys and hash codes of one side of a join, restricted to a range of an index order.
+     * A {@code null} order means that positions are element indices.
+     */
+    private static class Side {
+
+        private final Object[] keys;
+        private final int[] hashes;
+        private final int[] order;
+        private final int from;
+        private final int to;
+
+        Side(Object[] keys, int[] hashes, int[] order, int from, int to) {
+            this.keys = keys;
+            this.hashes = hashes;
+            this.order = order;
+            this.from = from;
+            this.to = to;
+        }
+
+        int indexAt(int position) {
+            return order == null ? position : order[position];
+        }
+
+        int size() {
+            return to - from;
+        }
+    }
+
+    /**
+     * Chained hash table of element indices. Buckets and chains are stored in {@code int} arrays,
+     * so building the table allocates no per-entry objects. A grouped table chains only the first element
+     * of each key into its bucket and links the other elements with the same key into that entry's group.
+     */
+    private static class KeyTable {
+
+        private final Object[] keys;
+        private final int[] hashes;
+        private final int[] heads;
+        private final int[] indices;
+        private final int[] next;
+        private final int[] sameKey;
+        private final int mask;
+
+        KeyTable(Side side, boolean grouped) {
+            this.keys = side.keys;
+            this.hashes = side.hashes;
+            int capacity = Integer.highestOneBit(Math.max(1, side.size()) * 2 - 1) << 1;
+            heads = new int[capacity];
+            Arrays.fill(heads, -1);
+            indices = new int[side.size()];
+            next = new int[side.size()];
+            sameKey = grouped ? new int[side.size()] : null;
+            mask = capacity - 1;
+            int count = 0;
+            for (int position = side.from; position < side.to; position++) {
+                int index = side.indexAt(position);
+                int hash = hashes[index];
+                indices[count] = index;
+                if (grouped) {
+                    int existing = find(keys[index], hash);
+                    if (existing >= 0) {
+                        sameKey[count] = sameKey[existing];
+                        sameKey[existing] = count++;
+                        continue;
+                    }
+                    sameKey[count] = -1;
+                }
+                int bucket = hash & mask;
+                next[count] = heads[bucket];
+                heads[bucket] = count++;
+            }
+        }
+
+        int find(Object key, int hash) {
+            return scan(heads[hash & mask], key, hash);
+        }
+
+        int next(int entry, Object key, int hash) {
+            return scan(next[entry], key, hash);
+        }
+
+        int nextWithSameKey(int entry) {
+            return sameKey[entry];
+        }
+
+        int indexAt(int entry) {
+            return indices[entry];
+        }
+
+        private int scan(int entry, Object key, int hash) {
+            while (entry >= 0) {
+                int index = indices[entry];
+                if (hashes[index] == hash && Objects.equals(keys[index], key)) {
+                    return entry;
+                }
+                entry = next[entry];
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Fork-join task that splits a range of partitions in halves and joins each partition with a hash table.
+     */
+    private static class PartitionTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Side[] left;
+        private final Side[] right;
+        private final int from;
+        private final int to;
+        private final boolean semi;
+        private final IntFunction<PairSink> sinks;
+
+        PartitionTask(Side[] left, Side[] right, int from, int to, boolean semi, IntFunction<PairSink> sinks) {
+            this.left = left;
+            this.right = right;
+            this.from = from;
+            this.to = to;
+            this.semi = semi;
+            this.sinks = sinks;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                hashJoin(left[from], right[from], semi, sinks.apply(from));
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new PartitionTask(left, right, from, middle, semi, sinks),
+                        new PartitionTask(left, right, middle, to, semi, sinks));
+            }
+        }
+    }
+}
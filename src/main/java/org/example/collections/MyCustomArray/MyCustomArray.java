@@ -1,9 +1,18 @@
 package org.example.collections.MyCustomArray;
 
+import org.example.collections.util.ArrayPool;
 import org.example.collections.util.QuickSort;
 
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.UnaryOperator;
 
 /**
  * Custom implementation of a dynamic array similar to the Java ArrayList.
@@ -14,10 +23,17 @@ public class MyCustomArray<T> {
 
     private static final int DEFAULT_CAPACITY = 16;
     private static final int DEFAULT_LOAD_FACTOR_PERCENT = 75;
+    private static final Object[] EMPTY_ARRAY = {};
+    private static final int MIN_PARALLEL_CHUNK = 1 << 12;
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<MyCustomArray> ACTIVE_OPERATIONS =
+            AtomicIntegerFieldUpdater.newUpdater(MyCustomArray.class, "activeOperations");
 
     private Object[] array;
     private int size;
     private final int loadFactorPercent;
+    private int modCount;
+    private volatile int activeOperations;
 
     /**
      * Constructs an empty list with an initial capacity of ten and a load factor of 75%.
@@ -40,6 +56,8 @@ public class MyCustomArray<T> {
 
     /**
      * Constructs an empty list with the specified initial capacity and load factor.
+     * The backing array is borrowed from {@link ArrayPool}. Capacities that fall into a pooled size class
+     * are rounded up to a power of two; larger capacities are allocated exactly.
      *
      * @param initialCapacity the initial capacity of the list
      * @param loadFactorPercent the load factor percentage at which the list's capacity is increased
@@ -52,7 +70,7 @@ public class MyCustomArray<T> {
         if (loadFactorPercent <= 0 || loadFactorPercent > 100) {
             throw new IllegalArgumentException("Процент загрузки должен быть указан от 1 до 100");
         }
-        array = new Object[initialCapacity];
+        array = initialCapacity == 0 ? EMPTY_ARRAY : ArrayPool.borrow(initialCapacity);
         size = 0;
         this.loadFactorPercent = loadFactorPercent;
     }
@@ -80,6 +98,26 @@ public class MyCustomArray<T> {
     public boolean add(T element) {
         ensureCapacity(size + 1);
         array[size++] = element;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Appends all of the elements of the specified list to the end of this list, in order.
+     *
+     * @param other list whose elements are to be appended to this list
+     * @return {@code true} if this list changed as a result of the call
+     * @throws NullPointerException if the specified list is null
+     */
+    public boolean addAll(MyCustomArray<? extends T> other) {
+        int count = other.size;
+        if (count == 0) {
+            return false;
+        }
+        ensureCapacity(size + count);
+        System.arraycopy(other.array, 0, array, size, count);
+        size += count;
+        modCount++;
         return true;
     }
 
@@ -99,6 +137,7 @@ public class MyCustomArray<T> {
         System.arraycopy(array, index, array, index + 1, size - index);
         array[index] = element;
         size++;
+        modCount++;
     }
 
     /**
@@ -119,6 +158,7 @@ public class MyCustomArray<T> {
             System.arraycopy(array, index + 1, array, index, numMoved);
         }
         array[--size] = null;
+        modCount++;
         return oldValue;
     }
 
@@ -203,14 +243,29 @@ public class MyCustomArray<T> {
 
     /**
      * Increases the capacity of this list, if necessary, to ensure that it can hold at least the number of elements specified by the minimum capacity argument.
+     * The new backing array is borrowed from {@link ArrayPool} and the old one is returned to it.
      *
      * @param minCapacity the desired minimum capacity
      */
     private void ensureCapacity(int minCapacity) {
         int loadFactorThreshold = array.length * loadFactorPercent / 100;
         if (minCapacity > loadFactorThreshold) {
-            int newCapacity = array.length * 2;
-            array = Arrays.copyOf(array, newCapacity);
+            int newCapacity = Math.max(array.length * 2, Math.max(minCapacity, DEFAULT_CAPACITY));
+            Object[] newArray = ArrayPool.borrow(newCapacity);
+            System.arraycopy(array, 0, newArray, 0, size);
+            releaseArray();
+            array = newArray;
+        }
+    }
+
+    /**
+     * Returns the backing array to {@link ArrayPool}, which clears it.
+     * While a bulk operation is running the array may still be written by it, so it is left to the garbage collector instead.
+     * The caller is responsible for replacing the backing array afterwards.
+     */
+    private void releaseArray() {
+        if (array != EMPTY_ARRAY && activeOperations == 0) {
+            ArrayPool.release(array);
         }
     }
 
@@ -229,10 +284,31 @@ public class MyCustomArray<T> {
      * Removes all of the elements from this list. The list will be empty after this call returns.
      */
     public void clear() {
-        for (int i = 0; i < size; i++) {
-            array[i] = null;
-        }
+        reset();
+    }
+
+    /**
+     * Removes all of the elements from this list and returns the backing array to {@link ArrayPool},
+     * so that the next list created on this thread can reuse it instead of allocating.
+     * Call this when a short-lived list is no longer needed. The list stays usable and borrows
+     * a new backing array when elements are added again.
+     */
+    public void release() {
+        releaseArray();
+        array = EMPTY_ARRAY;
         size = 0;
+        modCount++;
+    }
+
+    /**
+     * Removes all of the elements from this list while keeping its current capacity.
+     * This is the pooling-aware alias of {@link #clear()}: unlike {@link #release()}, the backing array stays with the list,
+     * and only its used range is cleared, so refilling the list does not allocate.
+     */
+    public void reset() {
+        Arrays.fill(array, 0, size, null);
+        size = 0;
+        modCount++;
     }
 
     /**
@@ -254,6 +330,240 @@ public class MyCustomArray<T> {
             T[] elements = Arrays.copyOf(array, size, (Class<T[]>) array.getClass());
             QuickSort.sort(elements, comparator);
             System.arraycopy(elements, 0, array, 0, size);
+            modCount++;
+        }
+    }
+
+    /**
+     * Replaces each element of this list with the result of applying the operator to that element.
+     *
+     * @param operator the operator to apply to each element
+     * @throws NullPointerException if the specified operator is null
+     * @throws ConcurrentModificationException if the list is structurally modified during the operation
+     */
+    public void replaceAll(UnaryOperator<T> operator) {
+        applyToRange(replacing(operator));
+    }
+
+    /**
+     * Performs the given action for each element of this list, in order.
+     *
+     * @param action the action to be performed for each element
+     * @throws NullPointerException if the specified action is null
+     * @throws ConcurrentModificationException if the list is structurally modified during the operation
+     */
+    public void forEach(Consumer<? super T> action) {
+        applyToRange(visiting(action));
+    }
+
+    /**
+     * Sets each element of this list to the value computed by the generator for its index.
+     *
+     * @param generator the function producing the new value for a given index
+     * @throws NullPointerException if the specified generator is null
+     * @throws ConcurrentModificationException if the list is structurally modified during the operation
+     */
+    public void setAll(IntFunction<? extends T> generator) {
+        applyToRange(generating(generator));
+    }
+
+    /**
+     * Parallel version of {@link #replaceAll(UnaryOperator)}. The list is split into chunks that are processed
+     * in the common {@link ForkJoinPool}; the operator must therefore be stateless and thread-safe.
+     *
+     * @param operator the operator to apply to each element
+     * @throws NullPointerException if the specified operator is null
+     * @throws ConcurrentModificationException if the list is structurally modified during the operation
+     */
+    public void parallelReplaceAll(UnaryOperator<T> operator) {
+        applyToRangeInParallel(replacing(operator));
+    }
+
+    /**
+     * Parallel version of {@link #forEach(Consumer)}. Elements are visited in no particular order
+     * and the action must be thread-safe.
+     *
+     * @param action the action to be performed for each element
+     * @throws NullPointerException if the specified action is null
+     * @throws ConcurrentModificationException if the list is structurally modified during the operation
+     */
+    public void parallelForEach(Consumer<? super T> action) {
+        applyToRangeInParallel(visiting(action));
+    }
+
+    /**
+     * Parallel version of {@link #setAll(IntFunction)}. The generator may be called for indices in any order
+     * and must be thread-safe.
+     *
+     * @param generator the function producing the new value for a given index
+     * @throws NullPointerException if the specified generator is null
+     * @throws ConcurrentModificationException if the list is structurally modified during the operation
+     */
+    public void parallelSetAll(IntFunction<? extends T> generator) {
+        applyToRangeInParallel(generating(generator));
+    }
+
+    /**
+     * Returns a range action that replaces each element with the result of applying the operator to it.
+     *
+     * @param operator the operator to apply to each element
+     * @return the range action
+     * @throws NullPointerException if the specified operator is null
+     */
+    private static <T> RangeAction replacing(UnaryOperator<T> operator) {
+        Objects.requireNonNull(operator, "Оператор не может быть null");
+        return (elements, from, to) -> {
+            for (int i = from; i < to; i++) {
+                elements[i] = operator.apply(elementAt(elements, i));
+            }
+        };
+    }
+
+    /**
+     * Returns a range action that performs the given action for each element.
+     *
+     * @param action the action to be performed for each element
+     * @return the range action
+     * @throws NullPointerException if the specified action is null
+     */
+    private static <T> RangeAction visiting(Consumer<? super T> action) {
+        Objects.requireNonNull(action, "Действие не может быть null");
+        return (elements, from, to) -> {
+            for (int i = from; i < to; i++) {
+                action.accept(elementAt(elements, i));
+            }
+        };
+    }
+
+    /**
+     * Returns a range action that sets each element to the value computed by the generator for its index.
+     *
+     * @param generator the function producing the new value for a given index
+     * @return the range action
+     * @throws NullPointerException if the specified generator is null
+     */
+    private static <T> RangeAction generating(IntFunction<? extends T> generator) {
+        Objects.requireNonNull(generator, "Генератор не может быть null");
+        return (elements, from, to) -> {
+            for (int i = from; i < to; i++) {
+                elements[i] = generator.apply(i);
+            }
+        };
+    }
+
+    /**
+     * Applies the range action to the whole used part of the backing array on the calling thread.
+     *
+     * @param action the action to be applied
+     * @throws ConcurrentModificationException if the list is structurally modified during the operation
+     */
+    private void applyToRange(RangeAction action) {
+        int expectedModCount = modCount;
+        ACTIVE_OPERATIONS.incrementAndGet(this);
+        try {
+            action.apply(array, 0, size);
+        } finally {
+            ACTIVE_OPERATIONS.decrementAndGet(this);
+        }
+        checkForComodification(expectedModCount);
+    }
+
+    /**
+     * Applies the range action to the used part of the backing array, splitting it into chunks
+     * that are processed in the common {@link ForkJoinPool}. Small lists are processed on the calling thread.
+     *
+     * @param action the action to be applied
+     * @throws ConcurrentModificationException if the list is structurally modified during the operation
+     */
+    private void applyToRangeInParallel(RangeAction action) {
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        if (size <= MIN_PARALLEL_CHUNK || parallelism <= 1) {
+            applyToRange(action);
+            return;
+        }
+        int chunkSize = Math.max(MIN_PARALLEL_CHUNK, size / (parallelism * 4));
+        ACTIVE_OPERATIONS.incrementAndGet(this);
+        try {
+            ForkJoinPool.commonPool().invoke(new RangeTask(array, 0, size, chunkSize, modCount, action));
+        } finally {
+            ACTIVE_OPERATIONS.decrementAndGet(this);
+        }
+    }
+
+    /**
+     * Checks that the list has not been structurally modified since the operation started.
+     *
+     * @param expectedModCount the modification count observed when the operation started
+     * @throws ConcurrentModificationException if the modification count has changed
+     */
+    private void checkForComodification(int expectedModCount) {
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Returns the element at the specified position in the given backing array with proper type casting.
+     *
+     * @param elements the backing array
+     * @param index index of the element to return
+     * @return the element at the specified position
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T elementAt(Object[] elements, int index) {
+        return (T) elements[index];
+    }
+
+    /**
+     * An action applied to a range of the backing array.
+     */
+    @FunctionalInterface
+    private interface RangeAction {
+
+        /**
+         * Applies the action to the elements in the range {@code [from, to)}.
+         *
+         * @param elements the backing array
+         * @param from the first index of the range, inclusive
+         * @param to the last index of the range, exclusive
+         */
+        void apply(Object[] elements, int from, int to);
+    }
+
+    /**
+     * Fork-join task that splits a range of the backing array in halves until it fits into a single chunk.
+     * Concurrent modification is checked once per chunk rather than once per element.
+     */
+    private class RangeTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Object[] elements;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final int expectedModCount;
+        private final RangeAction action;
+
+        RangeTask(Object[] elements, int from, int to, int chunkSize, int expectedModCount, RangeAction action) {
+            this.elements = elements;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.expectedModCount = expectedModCount;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                action.apply(elements, from, to);
+                checkForComodification(expectedModCount);
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RangeTask(elements, from, middle, chunkSize, expectedModCount, action),
+                        new RangeTask(elements, middle, to, chunkSize, expectedModCount, action));
+            }
         }
     }
 }
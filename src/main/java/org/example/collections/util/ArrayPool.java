@@ -0,0 +1,104 @@
+package org.example.collections.util;
+
+import java.util.Arrays;
+
+/**
+ * Utility class that provides a thread-local pool of {@code Object[]} backing arrays.
+ * Arrays are grouped into power-of-two size classes, so a borrowed array is always at least as long as requested.
+ * Only small size classes are pooled, and each thread retains at most 32768 elements
+ * in total (about 128 KB with compressed references). Larger arrays are allocated directly and left to the garbage collector.
+ */
+public class ArrayPool {
+
+    private static final int MIN_SIZE_CLASS = 4;
+    private static final int MAX_SIZE_CLASS = 12;
+    private static final int MAX_ARRAYS_PER_CLASS = 8;
+    private static final int MAX_RETAINED_ELEMENTS = 1 << 15;
+
+    private static final ThreadLocal<Cache> CACHE = ThreadLocal.withInitial(Cache::new);
+
+    /**
+     * Returns an array of at least the requested capacity. Capacities that fall into a pooled size class are rounded up
+     * to a power of two, and a previously released array of that length is reused when the current thread has one available.
+     * Larger capacities are allocated with the exact length.
+     *
+     * @param minCapacity the minimum length of the returned array
+     * @return an array of at least {@code minCapacity} elements, all of which are {@code null}
+     * @throws IllegalArgumentException if the specified capacity is negative
+     */
+    public static Object[] borrow(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new IllegalArgumentException("Неверная емкость: " + minCapacity);
+        }
+        int sizeClass = sizeClassOf(minCapacity);
+        if (sizeClass > MAX_SIZE_CLASS) {
+            return new Object[minCapacity];
+        }
+        Cache cache = CACHE.get();
+        int count = cache.counts[sizeClass];
+        if (count > 0) {
+            Object[] array = cache.buckets[sizeClass][--count];
+            cache.buckets[sizeClass][count] = null;
+            cache.counts[sizeClass] = count;
+            cache.retained -= array.length;
+            return array;
+        }
+        return new Object[1 << sizeClass];
+    }
+
+    /**
+     * Returns an array to the pool of the current thread so that it can be handed out again by {@link #borrow(int)}.
+     * The pool clears the array before retaining it. The caller must not use the array afterwards.
+     * Arrays whose length is not a pooled size class, or that do not fit into the per-thread budget,
+     * are left to the garbage collector.
+     *
+     * @param array the array to be returned to the pool
+     * @throws IllegalStateException if the array is already in the pool of the current thread
+     */
+    public static void release(Object[] array) {
+        int length = array.length;
+        if (Integer.bitCount(length) != 1) {
+            return;
+        }
+        int sizeClass = Integer.numberOfTrailingZeros(length);
+        if (sizeClass < MIN_SIZE_CLASS || sizeClass > MAX_SIZE_CLASS) {
+            return;
+        }
+        Cache cache = CACHE.get();
+        int count = cache.counts[sizeClass];
+        Object[][] bucket = cache.buckets[sizeClass];
+        for (int i = 0; i < count; i++) {
+            if (bucket[i] == array) {
+                throw new IllegalStateException("Массив уже возвращен в пул");
+            }
+        }
+        if (count < MAX_ARRAYS_PER_CLASS && cache.retained + length <= MAX_RETAINED_ELEMENTS) {
+            Arrays.fill(array, null);
+            bucket[count] = array;
+            cache.counts[sizeClass] = count + 1;
+            cache.retained += length;
+        }
+    }
+
+    /**
+     * Returns the size class (the base-two logarithm of the array length) that fits the specified capacity.
+     *
+     * @param capacity the requested capacity
+     * @return the size class for the requested capacity, never less than the smallest pooled class
+     */
+    private static int sizeClassOf(int capacity) {
+        if (capacity <= 1 << MIN_SIZE_CLASS) {
+            return MIN_SIZE_CLASS;
+        }
+        return 32 - Integer.numberOfLeadingZeros(capacity - 1);
+    }
+
+    /**
+     * Per-thread storage of released arrays, indexed by size class.
+     */
+    private static class Cache {
+        private final Object[][][] buckets = new Object[MAX_SIZE_CLASS + 1][MAX_ARRAYS_PER_CLASS][];
+        private final int[] counts = new int[MAX_SIZE_CLASS + 1];
+        private int retained;
+    }
+}
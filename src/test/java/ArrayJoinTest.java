@@ -0,0 +1,139 @@
+import org.example.collections.MyCustomArray.MyCustomArray;
+import org.example.collections.MyCustomArray.ArrayJoin;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ArrayJoinTest {
+
+    private static final int LARGE_SIZE = 1 << 17;
+
+    @Test
+    void testIntersection() {
+        MyCustomArray<Integer> left = new MyCustomArray<>(new Integer[]{1, 2, 2, 3, 4});
+        MyCustomArray<Integer> right = new MyCustomArray<>(new Integer[]{2, 4, 4, 5});
+
+        MyCustomArray<Integer> result = ArrayJoin.intersection(left, right, Comparator.naturalOrder());
+
+        assertArrayEquals(new Integer[]{2, 2, 4}, result.toArray(), "Дубликаты левого массива должны сохраняться.");
+    }
+
+    @Test
+    void testDifference() {
+        MyCustomArray<Integer> left = new MyCustomArray<>(new Integer[]{1, 2, 2, 3, 4});
+        MyCustomArray<Integer> right = new MyCustomArray<>(new Integer[]{2, 4, 4, 5});
+
+        MyCustomArray<Integer> result = ArrayJoin.difference(left, right, null);
+
+        assertArrayEquals(new Integer[]{1, 3}, result.toArray());
+    }
+
+    @Test
+    void testJoin() {
+        MyCustomArray<String> left = new MyCustomArray<>(new String[]{"a1", "b1", "b2", "c1"});
+        MyCustomArray<String> right = new MyCustomArray<>(new String[]{"b3", "c2", "c3", "d1"});
+
+        MyCustomArray<String> result = ArrayJoin.join(left, right, s -> s.charAt(0), s -> s.charAt(0),
+                Comparator.naturalOrder(), (l, r) -> l + r);
+
+        assertArrayEquals(new String[]{"b1b3", "b2b3", "c1c2", "c1c3"}, sorted(result));
+    }
+
+    @Test
+    void testSmallLeftAndLargeRight() {
+        MyCustomArray<Integer> left = new MyCustomArray<>(new Integer[]{7, -1, 7, null, 150_000, 3, -1});
+        MyCustomArray<Integer> right = range(0, 200_000);
+        right.add(7);
+        right.add(null);
+
+        assertArrayEquals(new Integer[]{7, 7, null, 150_000, 3},
+                ArrayJoin.intersection(left, right, null).toArray(), "Дубликаты левого массива должны сохраняться.");
+        assertArrayEquals(new Integer[]{-1, -1}, ArrayJoin.difference(left, right, null).toArray());
+    }
+
+    @Test
+    void testJoinWithEmptyList() {
+        MyCustomArray<Integer> left = new MyCustomArray<>(new Integer[]{1, 2, 3});
+        MyCustomArray<Integer> right = new MyCustomArray<>();
+
+        MyCustomArray<Integer> result = ArrayJoin.join(left, right, x -> x, x -> x, null, Integer::sum);
+
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void testMergeAndHashGiveEqualResults() {
+        MyCustomArray<Integer> left = sortedWithDuplicatesAndNulls(0, 30_000);
+        MyCustomArray<Integer> right = sortedWithDuplicatesAndNulls(10_000, 40_000);
+
+        assertArrayEquals(ArrayJoin.intersection(left, right, null).toArray(),
+                ArrayJoin.intersection(left, right, Comparator.naturalOrder()).toArray());
+        assertArrayEquals(ArrayJoin.difference(left, right, null).toArray(),
+                ArrayJoin.difference(left, right, Comparator.naturalOrder()).toArray());
+        assertArrayEquals(sorted(ArrayJoin.join(left, right, x -> x, x -> x, null, ArrayJoinTest::pair)),
+                sorted(ArrayJoin.join(left, right, x -> x, x -> x, Comparator.naturalOrder(), ArrayJoinTest::pair)));
+    }
+
+    @Test
+    void testNullsWithComparator() {
+        MyCustomArray<Integer> left = new MyCustomArray<>(new Integer[]{null, 1, 2});
+        MyCustomArray<Integer> right = new MyCustomArray<>(new Integer[]{null, 2});
+
+        MyCustomArray<Integer> result = ArrayJoin.intersection(left, right, Comparator.naturalOrder());
+
+        assertArrayEquals(new Integer[]{null, 2}, result.toArray(), "null должен совпадать только с null.");
+    }
+
+    @Test
+    void testUnsortedInputWithComparatorKeepsLeftOrder() {
+        MyCustomArray<Integer> left = new MyCustomArray<>(new Integer[]{5, 3, 8, 3, 1});
+        MyCustomArray<Integer> right = new MyCustomArray<>(new Integer[]{8, 3});
+
+        assertArrayEquals(new Integer[]{3, 8, 3}, ArrayJoin.intersection(left, right, Comparator.naturalOrder()).toArray());
+        assertArrayEquals(new Integer[]{5, 1}, ArrayJoin.difference(left, right, Comparator.naturalOrder()).toArray());
+    }
+
+    @Test
+    void testParallelOperationsMatchSequential() {
+        MyCustomArray<Integer> left = range(0, LARGE_SIZE);
+        MyCustomArray<Integer> right = range(LARGE_SIZE / 2, LARGE_SIZE + LARGE_SIZE / 2);
+
+        assertArrayEquals(ArrayJoin.intersection(left, right, null).toArray(),
+                sorted(ArrayJoin.parallelIntersection(left, right)));
+        assertArrayEquals(ArrayJoin.difference(left, right, null).toArray(),
+                sorted(ArrayJoin.parallelDifference(left, right)));
+        assertArrayEquals(sorted(ArrayJoin.join(left, right, x -> x, x -> x, null, Integer::sum)),
+                sorted(ArrayJoin.parallelJoin(left, right, x -> x, x -> x, Integer::sum)));
+    }
+
+    private static MyCustomArray<Integer> sortedWithDuplicatesAndNulls(int from, int to) {
+        MyCustomArray<Integer> result = new MyCustomArray<>();
+        result.add(null);
+        result.add(null);
+        for (int i = from; i < to; i++) {
+            result.add(i / 3);
+        }
+        return result;
+    }
+
+    private static String pair(Integer left, Integer right) {
+        return left + ":" + right;
+    }
+
+    private static MyCustomArray<Integer> range(int from, int to) {
+        MyCustomArray<Integer> result = new MyCustomArray<>();
+        for (int i = from; i < to; i++) {
+            result.add(i);
+        }
+        return result;
+    }
+
+    private static Object[] sorted(MyCustomArray<?> list) {
+        Object[] elements = list.toArray();
+        Arrays.sort(elements);
+        return elements;
+    }
+}
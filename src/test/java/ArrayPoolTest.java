@@ -0,0 +1,65 @@
+import org.example.collections.util.ArrayPool;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ArrayPoolTest {
+
+    @Test
+    void testBorrowRoundsUpToPowerOfTwo() {
+        assertEquals(16, ArrayPool.borrow(0).length);
+        assertEquals(16, ArrayPool.borrow(16).length);
+        assertEquals(32, ArrayPool.borrow(17).length);
+        assertEquals(1024, ArrayPool.borrow(1000).length);
+    }
+
+    @Test
+    void testReleasedArrayIsReused() {
+        Object[] array = ArrayPool.borrow(64);
+        ArrayPool.release(array);
+
+        assertSame(array, ArrayPool.borrow(50), "Возвращенный в пул массив должен быть выдан повторно.");
+    }
+
+    @Test
+    void testArrayOfOtherLengthIsNotPooled() {
+        Object[] array = new Object[100];
+        ArrayPool.release(array);
+
+        assertNotSame(array, ArrayPool.borrow(100));
+    }
+
+    @Test
+    void testReleasedArrayIsCleared() {
+        Object[] array = ArrayPool.borrow(16);
+        array[0] = "value";
+        array[15] = "value";
+        ArrayPool.release(array);
+
+        assertArrayEquals(new Object[16], ArrayPool.borrow(16), "Выданный из пула массив должен быть пустым.");
+    }
+
+    @Test
+    void testDoubleRelease() {
+        Object[] array = ArrayPool.borrow(32);
+        ArrayPool.release(array);
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> ArrayPool.release(array));
+        assertEquals("Массив уже возвращен в пул", exception.getMessage());
+        assertSame(array, ArrayPool.borrow(32));
+    }
+
+    @Test
+    void testLargeArrayIsNotPooled() {
+        Object[] array = ArrayPool.borrow(1 << 13);
+        ArrayPool.release(array);
+
+        assertNotSame(array, ArrayPool.borrow(1 << 13), "Большие массивы не должны удерживаться пулом.");
+    }
+
+    @Test
+    void testBorrowWithNegativeCapacity() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> ArrayPool.borrow(-1));
+        assertEquals("Неверная емкость: -1", exception.getMessage());
+    }
+}
@@ -3,6 +3,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -22,6 +24,16 @@ public class MuCustomArrayTest {
         assertEquals(10, myCustomArray.get(0));
     }
 
+    @Test
+    void testAddAll() {
+        myCustomArray.add(0);
+        MyCustomArray<Integer> other = new MyCustomArray<>(new Integer[]{1, 2, 3});
+
+        assertTrue(myCustomArray.addAll(other));
+        assertFalse(myCustomArray.addAll(new MyCustomArray<>()));
+        assertArrayEquals(new Integer[]{0, 1, 2, 3}, myCustomArray.toArray());
+    }
+
     @Test
     void testAddAtIndex() {
         myCustomArray.add(0);
@@ -106,6 +118,75 @@ public class MuCustomArrayTest {
         assertTrue(myCustomArray.isEmpty());
     }
 
+    @Test
+    void testAddAfterClear() {
+        for (int i = 0; i < 20; i++) {
+            myCustomArray.add(i);
+        }
+
+        myCustomArray.clear();
+        myCustomArray.add(7);
+
+        assertEquals(1, myCustomArray.size());
+        assertEquals(7, myCustomArray.get(0));
+    }
+
+    @Test
+    void testRelease() {
+        for (int i = 0; i < 20; i++) {
+            myCustomArray.add(i);
+        }
+
+        myCustomArray.release();
+        assertTrue(myCustomArray.isEmpty());
+
+        myCustomArray.add(7);
+        assertEquals(1, myCustomArray.size());
+        assertEquals(7, myCustomArray.get(0));
+    }
+
+    @Test
+    void testReleasedArrayIsReusedByAnotherList() {
+        for (int i = 0; i < 20; i++) {
+            myCustomArray.add(i);
+        }
+        myCustomArray.release();
+
+        MyCustomArray<Integer> other = new MyCustomArray<>(32, 75);
+        for (int i = 0; i < 20; i++) {
+            other.add(100 + i);
+        }
+        myCustomArray.add(7);
+
+        assertEquals(20, other.size());
+        assertEquals(100, other.get(0));
+        assertEquals(119, other.get(19));
+        assertArrayEquals(new Integer[]{7}, myCustomArray.toArray(), "Освобожденный список должен оставаться пригодным.");
+    }
+
+    @Test
+    void testReset() {
+        myCustomArray.add(0);
+        myCustomArray.add(1);
+        myCustomArray.add(2);
+
+        myCustomArray.reset();
+        assertTrue(myCustomArray.isEmpty());
+
+        myCustomArray.add(5);
+        assertEquals(1, myCustomArray.size());
+        assertEquals(5, myCustomArray.get(0));
+    }
+
+    @Test
+    void testZeroInitialCapacity() {
+        MyCustomArray<Integer> myArray = new MyCustomArray<>(0, 75);
+        myArray.add(1);
+
+        assertEquals(1, myArray.size());
+        assertEquals(1, myArray.get(0));
+    }
+
     @Test
     void testIsEmpty() {
         assertTrue(myCustomArray.isEmpty());
@@ -197,4 +278,133 @@ public class MuCustomArrayTest {
 
         assertArrayEquals(expected, myArray.toArray(), "Массив с одним элементом должен остаться без изменений.");
     }
+
+    @Test
+    void testReplaceAll() {
+        myCustomArray.add(1);
+        myCustomArray.add(2);
+        myCustomArray.add(3);
+
+        myCustomArray.replaceAll(x -> x * 10);
+
+        assertArrayEquals(new Integer[]{10, 20, 30}, myCustomArray.toArray());
+    }
+
+    @Test
+    void testForEach() {
+        myCustomArray.add(1);
+        myCustomArray.add(2);
+        myCustomArray.add(3);
+
+        StringBuilder visited = new StringBuilder();
+        myCustomArray.forEach(visited::append);
+
+        assertEquals("123", visited.toString(), "Элементы должны обходиться по порядку.");
+    }
+
+    @Test
+    void testSetAll() {
+        myCustomArray.add(0);
+        myCustomArray.add(0);
+        myCustomArray.add(0);
+
+        myCustomArray.setAll(i -> i * i);
+
+        assertArrayEquals(new Integer[]{0, 1, 4}, myCustomArray.toArray());
+    }
+
+    @Test
+    void testForEachWithConcurrentModification() {
+        myCustomArray.add(1);
+        myCustomArray.add(2);
+
+        assertThrows(ConcurrentModificationException.class, () -> myCustomArray.forEach(x -> myCustomArray.add(x)));
+    }
+
+    @Test
+    void testSortDuringForEach() {
+        myCustomArray.add(3);
+        myCustomArray.add(1);
+        myCustomArray.add(2);
+
+        assertThrows(ConcurrentModificationException.class,
+                () -> myCustomArray.forEach(x -> myCustomArray.sort(Comparator.naturalOrder())));
+    }
+
+    @Test
+    void testReleaseDuringBulkOperationDoesNotCorruptOtherLists() {
+        myCustomArray.add(1);
+        myCustomArray.add(2);
+        myCustomArray.add(3);
+        MyCustomArray<Integer>[] other = newHolder();
+
+        assertThrows(ConcurrentModificationException.class, () -> myCustomArray.replaceAll(x -> {
+            if (other[0] == null) {
+                myCustomArray.release();
+                other[0] = new MyCustomArray<>();
+                other[0].add(100);
+            }
+            return -1;
+        }));
+
+        assertArrayEquals(new Integer[]{100}, other[0].toArray(), "Чужой список не должен изменяться массовой операцией.");
+    }
+
+    @Test
+    void testGrowthDuringBulkOperationDoesNotCorruptOtherLists() {
+        for (int i = 0; i < 10; i++) {
+            myCustomArray.add(i);
+        }
+        MyCustomArray<Integer>[] other = newHolder();
+
+        assertThrows(ConcurrentModificationException.class, () -> myCustomArray.setAll(i -> {
+            if (other[0] == null) {
+                for (int n = 0; n < 100; n++) {
+                    myCustomArray.add(n);
+                }
+                other[0] = new MyCustomArray<>();
+                other[0].add(100);
+            }
+            return -1;
+        }));
+
+        assertArrayEquals(new Integer[]{100}, other[0].toArray(), "Чужой список не должен изменяться массовой операцией.");
+    }
+
+    @Test
+    void testParallelBulkOperations() {
+        int count = 100_000;
+        for (int i = 0; i < count; i++) {
+            myCustomArray.add(0);
+        }
+
+        myCustomArray.parallelSetAll(i -> i);
+        myCustomArray.parallelReplaceAll(x -> x * 2);
+
+        AtomicLong sum = new AtomicLong();
+        myCustomArray.parallelForEach(sum::addAndGet);
+
+        assertEquals(count, myCustomArray.size());
+        assertEquals(2 * (count - 1), myCustomArray.get(count - 1));
+        assertEquals((long) count * (count - 1), sum.get());
+    }
+
+    @Test
+    void testParallelForEachWithConcurrentModification() {
+        for (int i = 0; i < 100_000; i++) {
+            myCustomArray.add(i);
+        }
+
+        assertThrows(ConcurrentModificationException.class,
+                () -> myCustomArray.parallelForEach(x -> {
+                    if (x != null && x == 0) {
+                        myCustomArray.remove(myCustomArray.size() - 1);
+                    }
+                }));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static MyCustomArray<Integer>[] newHolder() {
+        return (MyCustomArray<Integer>[]) new MyCustomArray<?>[1];
+    }
 }